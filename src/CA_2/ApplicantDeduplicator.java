@@ -0,0 +1,359 @@
+/**
+ * ApplicantDeduplicator
+ *
+ * Description: Detects duplicate and near-duplicate applicants while the roster is being loaded,
+ * so repeated ADD / GENERATE_RANDOM appends and re-imports do not inflate the employee list.
+ * Every merged row is logged together with the row it was merged into.
+ *
+ * Author: Vitor Oliveira Trindade
+ * Date: 19/10/2026
+ */
+package CA_2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class ApplicantDeduplicator implements AutoCloseable {
+
+    // Rows kept so far; the fingerprint tables below store indexes into this list
+    private final List<Employee> kept;
+
+    // 64-bit fingerprints of the normalized keys of every kept row. A fingerprint hit is only a
+    // candidate: it is confirmed by comparing the real fields with the kept row it points to.
+    private final FingerprintTable rowFingerprints;
+    private final FingerprintTable emailFingerprints;
+    private final FingerprintTable nameCompanyFingerprints;
+
+    // Merged rows, each with the kept row it was merged into
+    private final ReportFile mergeLog;
+
+    private int exactDuplicateCount;
+    private int nearDuplicateCount;
+
+    /*
+    Description: Constructor
+    Sizes the fingerprint tables for the number of rows expected in a single load.
+
+        Parameters:
+            - expectedRows: number of rows the load is expected to contain (e.g. lines read from the file)
+            - mergeLogFilename: file listing every merged row and the row it was merged into
+              (replaced on each load, only created if something was merged)
+
+        Purpose:
+            > Memory per row is one list slot plus three (long, int) table entries; no key strings are kept.
+    */
+    public ApplicantDeduplicator(int expectedRows, String mergeLogFilename) {
+        kept = new ArrayList<>(expectedRows);
+        rowFingerprints = new FingerprintTable(expectedRows);
+        emailFingerprints = new FingerprintTable(expectedRows);
+        nameCompanyFingerprints = new FingerprintTable(expectedRows);
+        mergeLog = new ReportFile(mergeLogFilename);
+    }
+
+    /*
+    Description: accept
+    Decides whether an employee read from the file should be kept or merged into an earlier row.
+
+        Logic:
+            > Hashes all normalized fields; a fingerprint hit confirmed field by field is an exact duplicate.
+            > Fingerprints the email and the name + company; a confirmed hit is a near-duplicate.
+            > Logs each merged row next to the kept row it matched.
+            > Records the fingerprints of kept rows so later rows can be compared against them.
+
+        Returns:
+            - true if the employee is new and should be added, false if it duplicates an earlier row
+
+        Purpose:
+            > Runs as a single streaming pass over the load, one row at a time.
+    */
+    public boolean accept(Employee employee) {
+        long rowFingerprint = rowHash(employee);
+        int match = rowFingerprints.get(rowFingerprint);
+        if (match >= 0 && sameRow(kept.get(match), employee)) {
+            exactDuplicateCount++;
+            logMerge("exact duplicate", employee, kept.get(match));
+            return false;
+        }
+
+        String email = employee.getEmail();
+        boolean hasEmail = !email.isBlank();
+        long emailFingerprint = hasEmail ? mixText(FNV_OFFSET, email) : 0L;
+        if (hasEmail) {
+            match = emailFingerprints.get(emailFingerprint);
+            if (match >= 0 && sameText(kept.get(match).getEmail(), email)) {
+                nearDuplicateCount++;
+                logMerge("same email", employee, kept.get(match));
+                return false;
+            }
+        }
+
+        long nameCompanyFingerprint = nameCompanyHash(employee);
+        match = nameCompanyFingerprints.get(nameCompanyFingerprint);
+        if (match >= 0 && sameNameAndCompany(kept.get(match), employee)) {
+            nearDuplicateCount++;
+            logMerge("same name and company", employee, kept.get(match));
+            return false;
+        }
+
+        int index = kept.size();
+        kept.add(employee);
+        rowFingerprints.putIfAbsent(rowFingerprint, index);
+        if (hasEmail) {
+            emailFingerprints.putIfAbsent(emailFingerprint, index);
+        }
+        nameCompanyFingerprints.putIfAbsent(nameCompanyFingerprint, index);
+        return true;
+    }
+
+    /*
+    Description: getSummary
+    Returns a one-line report of what the deduplication stage merged during the load.
+    */
+    public String getSummary() {
+        String summary = "Duplicate check: " + kept.size() + " applicants kept, "
+                + exactDuplicateCount + " exact duplicates and "
+                + nearDuplicateCount + " near-duplicates merged";
+        return mergeLog.getLineCount() == 0 ? summary + "." : summary + " (" + mergeLog.describe() + ").";
+    }
+
+    public int getAcceptedCount() {
+        return kept.size();
+    }
+
+    public int getExactDuplicateCount() {
+        return exactDuplicateCount;
+    }
+
+    public int getNearDuplicateCount() {
+        return nearDuplicateCount;
+    }
+
+    /*
+    Description: close
+    Flushes and closes the merge log.
+    */
+    @Override
+    public void close() {
+        mergeLog.close();
+    }
+
+    private void logMerge(String reason, Employee merged, Employee keptEmployee) {
+        mergeLog.writeLine(reason + ": " + FileHandler.toCSVLine(merged)
+                + " -> merged into: " + FileHandler.toCSVLine(keptEmployee));
+    }
+
+    // FNV-1a 64-bit parameters
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /*
+    Description: rowHash
+    Computes a 64-bit FNV-1a hash over all normalized fields of an employee.
+
+        Logic:
+            > Lazily loaded employees are hashed straight from their raw line, so the check does
+              not force every field to be parsed. Both paths normalize the same way and produce the same hash.
+    */
+    private static long rowHash(Employee employee) {
+        if (employee instanceof LazyEmployee) {
+            return rawRowHash((LazyEmployee) employee);
+        }
+
+        long hash = FNV_OFFSET;
+        hash = mixText(hash, employee.getFirstName());
+        hash = mixText(hash, employee.getLastName());
+        hash = mixText(hash, employee.getGender());
+        hash = mixText(hash, employee.getEmail());
+        hash = mixText(hash, String.valueOf(employee.getSalary()));
+        hash = mixValue(hash, employee.getDepartment().ordinal());
+        hash = mixValue(hash, employee.getPosition().ordinal());
+        hash = mixText(hash, employee.getJobTitle());
+        hash = mixText(hash, employee.getCompany());
+        return hash;
+    }
+
+    /*
+    Description: rawRowHash
+    Same normalization as rowHash, applied to the characters of the raw CSV line.
+
+        Logic:
+            > Text fields: trimmed, inner whitespace collapsed, lower-cased while hashing.
+            > Salary, department and position: the parsed values, exactly what sameRow compares,
+              so "20000" and "20000.0" match, and so do a blank department and "IT" (its fallback).
+    */
+    private static long rawRowHash(LazyEmployee employee) {
+        String line = employee.getRawLine();
+        long hash = FNV_OFFSET;
+
+        for (int field = 0; field < LazyEmployee.FIELD_COUNT; field++) {
+            if (field == LazyEmployee.SALARY) {
+                hash = mixText(hash, String.valueOf(employee.getSalary()));
+            } else if (field == LazyEmployee.DEPARTMENT) {
+                hash = mixValue(hash, employee.getDepartment().ordinal());
+            } else if (field == LazyEmployee.POSITION) {
+                hash = mixValue(hash, employee.getPosition().ordinal());
+            } else {
+                hash = mixText(hash, line, employee.fieldStart(field), employee.fieldEnd(field));
+            }
+        }
+        return hash;
+    }
+
+    /*
+    Description: nameCompanyHash
+    Hashes the normalized first name, last name and company.
+
+        Logic:
+            > Lazily loaded employees are hashed from their raw line, so the check does not materialize
+              their names at load time (LazyEmployee caches them once a sort or search reads them).
+    */
+    private static long nameCompanyHash(Employee employee) {
+        if (employee instanceof LazyEmployee) {
+            LazyEmployee lazy = (LazyEmployee) employee;
+            String line = lazy.getRawLine();
+            long hash = FNV_OFFSET;
+            hash = mixText(hash, line, lazy.fieldStart(LazyEmployee.FIRST_NAME), lazy.fieldEnd(LazyEmployee.FIRST_NAME));
+            hash = mixText(hash, line, lazy.fieldStart(LazyEmployee.LAST_NAME), lazy.fieldEnd(LazyEmployee.LAST_NAME));
+            return mixText(hash, line, lazy.fieldStart(LazyEmployee.COMPANY), lazy.fieldEnd(LazyEmployee.COMPANY));
+        }
+
+        long hash = FNV_OFFSET;
+        hash = mixText(hash, employee.getFirstName());
+        hash = mixText(hash, employee.getLastName());
+        return mixText(hash, employee.getCompany());
+    }
+
+    private static long mixText(long hash, String text) {
+        return mixText(hash, text, 0, text.length());
+    }
+
+    // Hashes a parsed value (enum ordinal) followed by the field separator
+    private static long mixValue(long hash, int value) {
+        hash ^= value;
+        hash *= FNV_PRIME;
+        hash ^= 0x1f;
+        hash *= FNV_PRIME;
+        return hash;
+    }
+
+    /*
+    Description: mixText
+    Hashes text[start, end) as if it had been trimmed, lower-cased and had its inner whitespace
+    collapsed to a single separator, without building the normalized String.
+    */
+    private static long mixText(long hash, String text, int start, int end) {
+        boolean pendingSpace = false;
+        boolean started = false;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = started;
+                continue;
+            }
+            if (pendingSpace) {
+                hash ^= ' ';
+                hash *= FNV_PRIME;
+                pendingSpace = false;
+            }
+            hash ^= Character.toLowerCase(c);
+            hash *= FNV_PRIME;
+            started = true;
+        }
+        // Field separator so "ab","c" and "a","bc" hash differently
+        hash ^= 0x1f;
+        hash *= FNV_PRIME;
+        return hash;
+    }
+
+    /*
+    Description: sameRow / sameNameAndCompany / sameText
+    Exact confirmation of a fingerprint hit, comparing the normalized fields themselves.
+    */
+    private static boolean sameRow(Employee a, Employee b) {
+        return sameNameAndCompany(a, b)
+                && sameText(a.getGender(), b.getGender())
+                && sameText(a.getEmail(), b.getEmail())
+                && a.getSalary() == b.getSalary()
+                && a.getDepartment() == b.getDepartment()
+                && a.getPosition() == b.getPosition()
+                && sameText(a.getJobTitle(), b.getJobTitle());
+    }
+
+    private static boolean sameNameAndCompany(Employee a, Employee b) {
+        return sameText(a.getFirstName(), b.getFirstName())
+                && sameText(a.getLastName(), b.getLastName())
+                && sameText(a.getCompany(), b.getCompany());
+    }
+
+    private static boolean sameText(String a, String b) {
+        return normalize(a).equals(normalize(b));
+    }
+
+    /*
+    Description: normalize
+    Trims, lower-cases and collapses inner whitespace so cosmetic differences do not hide duplicates.
+    */
+    private static String normalize(String value) {
+        if (value == null) return "";
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /*
+    Description: FingerprintTable
+    Open-addressing hash table from a 64-bit fingerprint to the index of a kept row.
+
+        Logic:
+            > Keys and values live in two primitive arrays (no boxing, no key strings).
+            > Linear probing; the table doubles when it is half full.
+            > Only the first row with a given fingerprint is recorded.
+    */
+    private static class FingerprintTable {
+        private long[] keys;
+        private int[] values;   // row index + 1; 0 marks an empty slot
+        private int size;
+
+        FingerprintTable(int expectedEntries) {
+            int capacity = Integer.highestOneBit(Math.max(16, expectedEntries * 2) - 1) << 1;
+            keys = new long[capacity];
+            values = new int[capacity];
+        }
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int slot = spread(key) & mask; values[slot] != 0; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) return values[slot] - 1;
+            }
+            return -1;
+        }
+
+        void putIfAbsent(long key, int value) {
+            if ((size + 1) * 2 > keys.length) grow();
+
+            int mask = keys.length - 1;
+            int slot = spread(key) & mask;
+            while (values[slot] != 0) {
+                if (keys[slot] == key) return;
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = value + 1;
+            size++;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldValues.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != 0) putIfAbsent(oldKeys[i], oldValues[i] - 1);
+            }
+        }
+
+        private static int spread(long key) {
+            return (int) (key ^ (key >>> 32));
+        }
+    }
+}
@@ -0,0 +1,304 @@
+/**
+ * ApplicantValidator
+ *
+ * Description: Validation stage of the loading pipeline. Checks raw CSV rows in batches
+ * (required fields, email format, salary range, known department/position), streams rejected
+ * rows with their reasons to a reject file and keeps a count for a single summary at the end.
+ *
+ * Author: Vitor Oliveira Trindade
+ * Date: 19/10/2026
+ */
+package CA_2;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public class ApplicantValidator {
+
+    // CSV columns, in file order
+    public enum Field {
+        FIRST_NAME,
+        LAST_NAME,
+        GENDER,
+        EMAIL,
+        SALARY,
+        DEPARTMENT,
+        POSITION,
+        JOB_TITLE,
+        COMPANY
+    }
+
+    // Number of rows checked together; each check runs over the whole batch before the next one
+    private static final int BATCH_SIZE = 1024;
+
+    private static final Set<String> DEPARTMENT_NAMES = enumNames(DepartmentType.values());
+    private static final Set<String> POSITION_NAMES = enumNames(PositionType.values());
+
+    // Configuration (defaults accept every row of the current Applicants_Form.txt that is well formed)
+    private EnumSet<Field> requiredFields = EnumSet.of(Field.FIRST_NAME, Field.LAST_NAME, Field.EMAIL,
+            Field.SALARY, Field.DEPARTMENT, Field.COMPANY);
+    private double minSalary = 0.0;
+    private double maxSalary = 10_000_000.0;
+    private Pattern emailPattern;          // null = built-in structural check
+    private boolean strictEnums = true;    // reject unknown department/position instead of falling back
+
+    private final String rejectFilename;
+    private ReportFile rejectFile;
+
+    private int acceptedCount;
+    private int rejectedCount;
+
+    /*
+    Description: Constructor
+
+        Parameters:
+            - rejectFilename: file receiving every rejected row with its line number and reasons
+              (the previous file is removed when validate() starts; a new one is only created if a row is rejected)
+    */
+    public ApplicantValidator(String rejectFilename) {
+        this.rejectFilename = rejectFilename;
+    }
+
+    /*
+    Description: Configuration setters
+    Adjust which checks are applied. Call them before validate().
+    */
+    public void setRequiredFields(EnumSet<Field> requiredFields) {
+        this.requiredFields = EnumSet.copyOf(requiredFields);
+    }
+
+    public void setSalaryRange(double minSalary, double maxSalary) {
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+    }
+
+    public void setEmailPattern(Pattern emailPattern) {
+        this.emailPattern = emailPattern;
+    }
+
+    public void setStrictEnums(boolean strictEnums) {
+        this.strictEnums = strictEnums;
+    }
+
+    /*
+    Description: validate
+    Runs every check on the given rows and returns the employees that passed.
+
+        Parameters:
+            - lines: raw CSV rows (without the header)
+            - firstLineNumber: file line number of lines.get(0), used in the reject file
+
+        Logic:
+            > Blank lines are skipped silently.
+            > Rows are indexed with LazyEmployee.fromCSV (field offsets and salary only) and checked in batches.
+            > Within a batch each check is a tight loop over one column: required fields, salary
+              (gathered into a double[] and range-checked in one pass), email, department and position.
+            > A row's reasons are collected across all checks; rejected rows are written to the reject file.
+            > A failure writing the reject file is recorded once and reported by getSummary().
+
+        Returns:
+            - The accepted rows as lazily parsed Employees, in file order
+    */
+    public List<Employee> validate(List<String> lines, int firstLineNumber) {
+        List<Employee> accepted = new ArrayList<>(lines.size());
+        rejectFile = new ReportFile(rejectFilename);
+
+        LazyEmployee[] rows = new LazyEmployee[BATCH_SIZE];
+        String[] raw = new String[BATCH_SIZE];
+        int[] lineNumbers = new int[BATCH_SIZE];
+        StringBuilder[] reasons = new StringBuilder[BATCH_SIZE];
+        double[] salaries = new double[BATCH_SIZE];
+
+        int count = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) continue;
+
+            raw[count] = line;
+            rows[count] = LazyEmployee.fromCSV(line);
+            lineNumbers[count] = firstLineNumber + i;
+            reasons[count] = null;
+            count++;
+
+            if (count == BATCH_SIZE) {
+                validateBatch(rows, raw, lineNumbers, reasons, salaries, count, accepted);
+                count = 0;
+            }
+        }
+        validateBatch(rows, raw, lineNumbers, reasons, salaries, count, accepted);
+
+        rejectFile.close();
+        return accepted;
+    }
+
+    /*
+    Description: getSummary
+    One-line report printed once the load is finished.
+    */
+    public String getSummary() {
+        String summary = "Validation: " + acceptedCount + " rows accepted, " + rejectedCount + " rejected";
+        return rejectedCount == 0 ? summary + "." : summary + " (" + rejectFile.describe() + ").";
+    }
+
+    public int getAcceptedCount() {
+        return acceptedCount;
+    }
+
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    private void validateBatch(LazyEmployee[] rows, String[] raw, int[] lineNumbers, StringBuilder[] reasons,
+                               double[] salaries, int count, List<Employee> accepted) {
+        // Structure: fewer than 9 fields
+        for (int r = 0; r < count; r++) {
+            if (rows[r] == null) reject(reasons, r, "missing fields (9 expected)");
+        }
+
+        // Required fields
+        for (Field field : requiredFields) {
+            for (int r = 0; r < count; r++) {
+                if (rows[r] != null && isBlank(rows[r], field)) {
+                    reject(reasons, r, "missing " + fieldLabel(field));
+                }
+            }
+        }
+
+        // Salary: gather the column (already parsed by LazyEmployee.fromCSV), then range-check it in one loop
+        // (NaN marks values that did not parse)
+        for (int r = 0; r < count; r++) {
+            if (rows[r] == null || isBlank(rows[r], Field.SALARY)) {
+                salaries[r] = 0.0;
+            } else {
+                salaries[r] = rows[r].hasValidSalary() ? rows[r].getSalary() : Double.NaN;
+            }
+        }
+        for (int r = 0; r < count; r++) {
+            double salary = salaries[r];
+            if (rows[r] == null) continue;
+            if (Double.isNaN(salary)) {
+                reject(reasons, r, "invalid salary '" + text(rows[r], Field.SALARY) + "'");
+            } else if (salary < minSalary || salary > maxSalary) {
+                reject(reasons, r, String.format("salary out of range [%.2f, %.2f]", minSalary, maxSalary));
+            }
+        }
+
+        // Email format (only when present; a missing email is the required-field check's job)
+        for (int r = 0; r < count; r++) {
+            if (rows[r] != null && !isBlank(rows[r], Field.EMAIL) && !isValidEmail(rows[r])) {
+                reject(reasons, r, "invalid email '" + text(rows[r], Field.EMAIL) + "'");
+            }
+        }
+
+        // Department and position: non-empty values must name a known enum constant
+        if (strictEnums) {
+            for (int r = 0; r < count; r++) {
+                if (rows[r] != null && !isKnown(rows[r], Field.DEPARTMENT, DEPARTMENT_NAMES)) {
+                    reject(reasons, r, "unknown department '" + text(rows[r], Field.DEPARTMENT) + "'");
+                }
+            }
+            for (int r = 0; r < count; r++) {
+                if (rows[r] != null && !isKnown(rows[r], Field.POSITION, POSITION_NAMES)) {
+                    reject(reasons, r, "unknown position '" + text(rows[r], Field.POSITION) + "'");
+                }
+            }
+        }
+
+        for (int r = 0; r < count; r++) {
+            if (reasons[r] == null) {
+                accepted.add(rows[r]);
+                acceptedCount++;
+            } else {
+                writeReject(lineNumbers[r], reasons[r], raw[r]);
+                rejectedCount++;
+            }
+        }
+    }
+
+    private static void reject(StringBuilder[] reasons, int row, String reason) {
+        if (reasons[row] == null) {
+            reasons[row] = new StringBuilder(reason);
+        } else {
+            reasons[row].append("; ").append(reason);
+        }
+    }
+
+    /*
+    Description: isBlank
+    True if the field holds only whitespace; checked on the raw line without creating a String.
+    */
+    private static boolean isBlank(LazyEmployee row, Field field) {
+        String line = row.getRawLine();
+        int end = row.fieldEnd(field.ordinal());
+        for (int i = row.fieldStart(field.ordinal()); i < end; i++) {
+            if (!Character.isWhitespace(line.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static String text(LazyEmployee row, Field field) {
+        return row.getRawLine().substring(row.fieldStart(field.ordinal()), row.fieldEnd(field.ordinal())).trim();
+    }
+
+    /*
+    Description: isValidEmail
+    Uses the configured pattern if any; otherwise a single scan of the raw field checks for
+    exactly one '@' with text before it, a '.' somewhere after it, and no whitespace inside.
+    */
+    private boolean isValidEmail(LazyEmployee row) {
+        if (emailPattern != null) {
+            return emailPattern.matcher(text(row, Field.EMAIL)).matches();
+        }
+
+        String line = row.getRawLine();
+        int start = row.fieldStart(Field.EMAIL.ordinal());
+        int end = row.fieldEnd(Field.EMAIL.ordinal());
+        while (start < end && Character.isWhitespace(line.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(line.charAt(end - 1))) end--;
+
+        int at = -1;
+        int lastDot = -1;
+        for (int i = start; i < end; i++) {
+            char c = line.charAt(i);
+            if (Character.isWhitespace(c)) return false;
+            if (c == '@') {
+                if (at >= 0) return false;
+                at = i;
+            } else if (c == '.' && at >= 0) {
+                lastDot = i;
+            }
+        }
+        return at > start && lastDot > at + 1 && lastDot < end - 1;
+    }
+
+    // Empty values are allowed here (the factory falls back to a default); other values must be known
+    private static boolean isKnown(LazyEmployee row, Field field, Set<String> names) {
+        if (isBlank(row, field)) return true;
+        return names.contains(text(row, field).toUpperCase(Locale.ROOT).replace(" ", "_"));
+    }
+
+    private static String fieldLabel(Field field) {
+        return field.name().toLowerCase(Locale.ROOT).replace("_", " ");
+    }
+
+    private static Set<String> enumNames(Enum<?>[] values) {
+        Set<String> names = new HashSet<>();
+        for (Enum<?> value : values) {
+            names.add(value.name());
+        }
+        return names;
+    }
+
+    /*
+    Description: writeReject
+    Appends one rejected row to the reject file as "line N: reasons | original row".
+    */
+    private void writeReject(int lineNumber, CharSequence reasons, String line) {
+        rejectFile.writeLine("line " + lineNumber + ": " + reasons + " | " + line);
+    }
+}
@@ -51,6 +51,14 @@ public class Employee {
         this.company = company;
     }
 
+    /*
+    Description: Constructor for views
+    Leaves every field empty; used by subclasses (e.g. LazyEmployee) that read their
+    fields from another storage by overriding the getter methods.
+    */
+    protected Employee() {
+    }
+
     /*
     Description: Getter methods
     These methods provide read-only access to the private fields.
@@ -102,6 +110,6 @@ public class Employee {
     */
     @Override
     public String toString() {
-        return firstName + " " + lastName + " - " + jobTitle + " (" + department.name().replace("_", " ") + ") - " + company;
+        return getFirstName() + " " + getLastName() + " - " + getJobTitle() + " (" + getDepartment().name().replace("_", " ") + ") - " + getCompany();
     }
 }
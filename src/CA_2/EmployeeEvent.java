@@ -0,0 +1,55 @@
+/**
+ * EmployeeEvent
+ *
+ * Description: Describes a single change made to the employee list managed by EmployeeManager
+ * (an employee added, updated or removed).
+ *
+ * Author: Vitor Oliveira Trindade
+ * Date: 19/10/2026
+ */
+package CA_2;
+
+public class EmployeeEvent {
+
+    // Kind of change that happened to the employee list
+    public enum Type {
+        ADDED,
+        UPDATED,
+        REMOVED
+    }
+
+    private final Type type;
+    private final Employee employee;
+    private final Employee previous;
+
+    /*
+    Description: Constructor
+
+        Parameters:
+            - type: the kind of change
+            - employee: the employee added, the new version of an updated employee, or the employee removed
+            - previous: the old version of an updated employee (null for ADDED and REMOVED)
+    */
+    public EmployeeEvent(Type type, Employee employee, Employee previous) {
+        this.type = type;
+        this.employee = employee;
+        this.previous = previous;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Employee getEmployee() {
+        return employee;
+    }
+
+    public Employee getPrevious() {
+        return previous;
+    }
+
+    @Override
+    public String toString() {
+        return type + ": " + employee;
+    }
+}
@@ -0,0 +1,221 @@
+/**
+ * EmployeeEventStream
+ *
+ * Description: Delivers EmployeeEvents to subscribed listeners. Each subscriber gets its own
+ * lock-free ring buffer and delivery thread, so writers never wait for a listener.
+ *
+ * Author: Vitor Oliveira Trindade
+ * Date: 19/10/2026
+ */
+package CA_2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+public class EmployeeEventStream {
+
+    // Default ring size per subscriber (rounded up to a power of two)
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    // Maximum number of events handed to a listener in one call
+    private static final int MAX_BATCH_SIZE = 256;
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    /*
+    Description: subscribe
+    Registers a listener and starts its delivery thread.
+
+        Parameters:
+            - listener: receives batches of events
+            - bufferSize: how many events may wait for this listener before new ones are dropped
+
+        Returns:
+            - The Subscription, used to cancel it or to check how many events were dropped
+    */
+    public Subscription subscribe(EmployeeListener listener, int bufferSize) {
+        Subscription subscription = new Subscription(listener, bufferSize);
+        subscriptions.add(subscription);
+        subscription.start();
+        return subscription;
+    }
+
+    public Subscription subscribe(EmployeeListener listener) {
+        return subscribe(listener, DEFAULT_BUFFER_SIZE);
+    }
+
+    /*
+    Description: hasSubscribers
+    Returns true if at least one listener is subscribed (lets callers skip building events nobody reads).
+    */
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    /*
+    Description: publish
+    Hands an event to every subscriber's ring buffer.
+
+        Logic:
+            > Never blocks: if a subscriber's ring is full, the event is dropped for that
+              subscriber only and counted in its dropped counter; the listener is then told
+              through EmployeeListener.onOverflow so it can resync.
+            > Wakes up delivery threads that are idle.
+    */
+    public void publish(EmployeeEvent event) {
+        for (Subscription subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    /*
+    Description: close
+    Cancels every subscription.
+    */
+    public void close() {
+        for (Subscription subscription : subscriptions) {
+            subscription.cancel();
+        }
+    }
+
+    /*
+    Description: Subscription
+    One listener with its ring buffer and delivery thread.
+
+        Ring buffer:
+            > Multi-producer, single-consumer, fixed size, no locks.
+            > Producers claim a slot by CAS on the tail sequence, then store the event in it.
+            > The delivery thread reads slots in order from the head, clearing each one it consumes.
+            > An idle delivery thread parks until a producer or cancel() unparks it; it never polls.
+    */
+    public class Subscription {
+        private final EmployeeListener listener;
+        private final AtomicReferenceArray<EmployeeEvent> slots;
+        private final int mask;
+        private final AtomicLong tail = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        private final Thread deliveryThread;
+        private volatile long head;
+        private volatile boolean idle;
+        private volatile boolean cancelled;
+
+        // Dropped count already reported to the listener (delivery thread only)
+        private long reportedDrops;
+
+        private Subscription(EmployeeListener listener, int bufferSize) {
+            int capacity = Integer.highestOneBit(Math.max(2, bufferSize) - 1) << 1;
+            this.listener = listener;
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+            this.deliveryThread = new Thread(this::deliver, "employee-events");
+            this.deliveryThread.setDaemon(true);
+        }
+
+        private void start() {
+            deliveryThread.start();
+        }
+
+        /*
+        Description: getDroppedCount
+        Returns how many events were dropped because this listener fell too far behind.
+        */
+        public long getDroppedCount() {
+            return dropped.get();
+        }
+
+        /*
+        Description: cancel
+        Stops delivery to this listener and removes it from the stream.
+        */
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+            LockSupport.unpark(deliveryThread);
+        }
+
+        private void offer(EmployeeEvent event) {
+            while (true) {
+                long sequence = tail.get();
+                if (sequence - head > mask) {
+                    dropped.incrementAndGet();
+                    return;
+                }
+                if (tail.compareAndSet(sequence, sequence + 1)) {
+                    slots.lazySet((int) sequence & mask, event);
+                    break;
+                }
+            }
+
+            if (idle) {
+                LockSupport.unpark(deliveryThread);
+            }
+        }
+
+        /*
+        Description: drain
+        Moves up to MAX_BATCH_SIZE published events from the ring into the batch list.
+        A claimed slot whose event is not stored yet ends the batch; it is picked up next time.
+        */
+        private void drain(List<EmployeeEvent> batch) {
+            long position = head;
+            while (batch.size() < MAX_BATCH_SIZE) {
+                int index = (int) position & mask;
+                EmployeeEvent event = slots.get(index);
+                if (event == null) break;
+
+                slots.lazySet(index, null);
+                batch.add(event);
+                position++;
+            }
+            head = position;
+        }
+
+        private void deliver() {
+            List<EmployeeEvent> batch = new ArrayList<>(MAX_BATCH_SIZE);
+
+            while (!cancelled) {
+                drain(batch);
+                reportDrops();
+
+                if (batch.isEmpty()) {
+                    idle = true;
+                    // Re-check after announcing we are idle: an offer that advanced the tail before
+                    // this check is seen here, and one that advances it after will see idle and unpark
+                    if (tail.get() == head && !cancelled) {
+                        LockSupport.park(this);
+                    }
+                    idle = false;
+                    continue;
+                }
+
+                try {
+                    listener.onEvents(batch);
+                } catch (RuntimeException e) {
+                    System.out.println("Error in employee listener: " + e.getMessage());
+                }
+                batch.clear();
+            }
+        }
+
+        /*
+        Description: reportDrops
+        Tells the listener how many events were lost since the last report, before it receives more events.
+        */
+        private void reportDrops() {
+            long droppedSoFar = dropped.get();
+            if (droppedSoFar == reportedDrops) return;
+
+            long newlyDropped = droppedSoFar - reportedDrops;
+            reportedDrops = droppedSoFar;
+            try {
+                listener.onOverflow(newlyDropped);
+            } catch (RuntimeException e) {
+                System.out.println("Error in employee listener: " + e.getMessage());
+            }
+        }
+    }
+}
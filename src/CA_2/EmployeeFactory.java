@@ -135,6 +135,27 @@ public class EmployeeFactory {
         return new Employee(firstName, lastName, gender, email, salary, department, position, jobTitle, company);
     }
 
+    /*
+    Description: createLazyFromCSV
+    Converts a CSV line into an Employee whose fields are parsed on first access.
+
+        Logic:
+            > Indexes the field offsets and parses the salary; the employee keeps the raw line (see LazyEmployee).
+            > Other fields are parsed on first access, with the same fallbacks as createFromCSV.
+            > An invalid salary is reported here, at load time, with the same message as createFromCSV.
+
+        Purpose:
+            > Speeds up loading large files and retains less memory per row than createFromCSV:
+              fields that are never used (e.g. job title during a search) are never parsed.
+    */
+    public static Employee createLazyFromCSV(String csvLine) {
+        LazyEmployee employee = LazyEmployee.fromCSV(csvLine);
+        if (employee != null && !employee.hasValidSalary()) {
+            System.out.println("Invalid salary value for: " + employee.getFirstName() + " " + employee.getLastName());
+        }
+        return employee;
+    }
+
     /*
     Description: readOption
     Reads a numeric option from the user and validates if it's within a valid range.
@@ -0,0 +1,41 @@
+/**
+ * EmployeeListener
+ *
+ * Description: Callback interface for components that want to follow changes to the employee list
+ * (indexes, reports, persistence) instead of re-reading it through getEmployees().
+ *
+ * Author: Vitor Oliveira Trindade
+ * Date: 19/10/2026
+ */
+package CA_2;
+
+import java.util.List;
+
+public interface EmployeeListener {
+
+    /*
+    Description: onEvents
+    Receives a batch of changes, in the order they were made.
+
+        Notes:
+            > Called on the subscription's own delivery thread, never on the thread that changed the list.
+            > The list is only valid during the call; copy it if it must be kept.
+    */
+    void onEvents(List<EmployeeEvent> events);
+
+    /*
+    Description: onOverflow
+    Resync signal: the listener fell too far behind and some events were dropped.
+
+        Parameters:
+            - droppedEvents: number of events lost since the previous onOverflow call
+
+        Notes:
+            > Called on the delivery thread, before the next batch is delivered.
+            > The events seen so far no longer describe the list; rebuild any derived state from
+              EmployeeManager.getEmployees(). Events delivered afterwards may already be part of that snapshot.
+            > The default does nothing, for listeners that can tolerate gaps.
+    */
+    default void onOverflow(long droppedEvents) {
+    }
+}
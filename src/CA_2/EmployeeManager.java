@@ -2,6 +2,8 @@
  * EmployeeManager
  * 
  * Description: Manages a list of employees, allowing adding, searching, sorting, and generating random employees.
+ * Every change to the list is published as an EmployeeEvent to subscribed listeners.
+ * Search results are cached and invalidated when a change touches a matching name.
  * 
  * Author: Vitor Oliveira Trindade
  * Date: 28/04/2025 (Atualizado para uso com enums)
@@ -12,11 +14,18 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.Random;
 
 public class EmployeeManager {
     private List<Employee> employees;
 
+    // Change stream for listeners that follow the list incrementally
+    private final EmployeeEventStream events = new EmployeeEventStream();
+
+    // Results of searchEmployeeByFullName, keyed by normalized query
+    private final SearchResultCache searchCache = new SearchResultCache();
+
     /*
     Description: Constructor
     Initializes the internal employee list when an EmployeeManager instance is created.
@@ -37,6 +46,87 @@ public class EmployeeManager {
     */
     public void addEmployee(Employee employee) {
         employees.add(employee);
+        searchCache.invalidate(employee);
+        publish(EmployeeEvent.Type.ADDED, employee, null);
+    }
+
+    /*
+    Description: updateEmployee
+    Replaces an employee in the list with a new version.
+
+        Parameters:
+            - existing: the employee currently in the list
+            - replacement: the new version of the employee
+
+        Returns:
+            - true if the employee was found and replaced, false otherwise
+    */
+    public boolean updateEmployee(Employee existing, Employee replacement) {
+        int index = employees.indexOf(existing);
+        if (index < 0) return false;
+
+        employees.set(index, replacement);
+        searchCache.invalidate(existing);
+        searchCache.invalidate(replacement);
+        publish(EmployeeEvent.Type.UPDATED, replacement, existing);
+        return true;
+    }
+
+    /*
+    Description: removeEmployee
+    Removes an employee from the list.
+
+        Returns:
+            - true if the employee was found and removed, false otherwise
+    */
+    public boolean removeEmployee(Employee employee) {
+        if (!employees.remove(employee)) return false;
+
+        searchCache.invalidate(employee);
+        publish(EmployeeEvent.Type.REMOVED, employee, null);
+        return true;
+    }
+
+    /*
+    Description: clear
+    Removes every employee, publishing a REMOVED event for each one.
+
+        Purpose:
+            > Used before reloading a roster, so loading twice does not duplicate it.
+    */
+    public void clear() {
+        List<Employee> removed = new ArrayList<>(employees);
+        employees.clear();
+        searchCache.clear();
+        for (Employee employee : removed) {
+            publish(EmployeeEvent.Type.REMOVED, employee, null);
+        }
+    }
+
+    /*
+    Description: subscribe
+    Registers a listener that receives batches of add/update/remove events.
+
+        Logic:
+            > Each listener has its own bounded lock-free ring buffer and delivery thread.
+            > A slow listener never blocks the thread changing the list; if its buffer fills up,
+              further events are dropped for it and counted (see Subscription.getDroppedCount).
+
+        Purpose:
+            > Lets caches, reports and indexes update incrementally instead of polling getEmployees().
+    */
+    public EmployeeEventStream.Subscription subscribe(EmployeeListener listener) {
+        return events.subscribe(listener);
+    }
+
+    /*
+    Description: publish
+    Publishes a change event, skipping the allocation entirely when nobody is listening.
+    */
+    private void publish(EmployeeEvent.Type type, Employee employee, Employee previous) {
+        if (events.hasSubscribers()) {
+            events.publish(new EmployeeEvent(type, employee, previous));
+        }
     }
 
     /*
@@ -44,17 +134,35 @@ public class EmployeeManager {
     Searches for an employee by full name using binary search.
 
         Logic:
-            - First sorts the employee list.
-            - Then performs a recursive binary search on the sorted list.
+            - Returns the cached result if the same query (ignoring case and surrounding spaces) was searched before.
+            - Otherwise sorts the employee list.
+            - Then performs a recursive binary search on the sorted list and caches the result (including "not found").
 
         Purpose:
             - Provides a fast search for a specific employee by their full name.
     */
-
-
     public Employee searchEmployeeByFullName(String fullName) {
+        Optional<Employee> cached = searchCache.get(fullName);
+        if (cached != null) {
+            return cached.orElse(null);
+        }
+
         sortEmployees(); // Ensures binary search will work correctly
-        return binarySearchEmployee(fullName, 0, employees.size() - 1);
+        Employee found = binarySearchEmployee(fullName, 0, employees.size() - 1);
+        searchCache.put(fullName, found);
+        return found;
+    }
+
+    /*
+    Description: getSearchCache
+    Returns the search result cache (e.g. to read its hit and miss counters).
+
+        Note:
+            - Changes made directly on the list returned by getEmployees() bypass invalidation;
+              call getSearchCache().clear() after such changes.
+    */
+    public SearchResultCache getSearchCache() {
+        return searchCache;
     }
 
     /*
@@ -182,7 +290,7 @@ public class EmployeeManager {
         String company = companies[random.nextInt(companies.length)];
 
         Employee randomEmployee = new Employee(firstName, lastName, gender, email, salary, department, position, jobTitle, company);
-        employees.add(randomEmployee);
+        addEmployee(randomEmployee);
         return randomEmployee;
     }
 
@@ -2,6 +2,8 @@
  * FileHandler
  * 
  * Description: Handles reading and writing employee data to and from a text file.
+ * Files ending in .gz (or starting with the gzip magic bytes) are compressed and decompressed on the fly.
+ * Text is always encoded with an explicit charset (UTF-8 by default) instead of the platform default.
  * 
  * Author: Vitor Oliveira Trindade
  * Date: 28/04/2025
@@ -10,22 +12,82 @@ package CA_2;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PushbackInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 public class FileHandler {
 
+    // Extension used to mark compressed roster files
+    private static final String GZIP_EXTENSION = ".gz";
+
+    // First two bytes of every gzip stream (RFC 1952)
+    private static final int GZIP_MAGIC_1 = 0x1f;
+    private static final int GZIP_MAGIC_2 = 0x8b;
+
+    // Buffer size for the byte streams, large enough to keep the codec busy
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    // Charset used to decode and encode every line
+    private final Charset charset;
+
+    // True when ASCII text is encoded byte-for-byte in the charset, so lines can be split on raw bytes
+    private final boolean asciiCompatible;
+
+    // Whether each file read or written so far is gzip-compressed, so appends do not re-open it to check.
+    // Assumes the files are only changed through this FileHandler while it is in use.
+    private final Map<String, Boolean> gzipFiles = new ConcurrentHashMap<>();
+
+    /*
+    Description: Constructor
+    Creates a FileHandler that reads and writes text in the given charset.
+
+        Parameters:
+            - charset: the charset of the roster files (e.g. StandardCharsets.UTF_8)
+    */
+    public FileHandler(Charset charset) {
+        this.charset = charset;
+        this.asciiCompatible = isAsciiCompatible(charset);
+    }
+
+    /*
+    Description: Constructor
+    Creates a FileHandler using UTF-8, so names are read the same way on every host.
+    */
+    public FileHandler() {
+        this(StandardCharsets.UTF_8);
+    }
+
+    public Charset getCharset() {
+        return charset;
+    }
+
     /*
     Description: readFile
     This method reads the contents of a file line by line and stores each line in a List<String>.
 
         Logic:
-            > Uses a BufferedReader for efficient line-by-line reading.
+            > Reads raw bytes in large blocks and splits them into lines (see readLinesAsBytes).
+            > Charsets that are not ASCII-compatible (e.g. UTF-16) fall back to a BufferedReader.
             > Trims each line to remove leading/trailing whitespace.
             > Collects all lines in a list and returns it.
+            > Compressed files are decompressed while streaming, never inflated whole into memory.
 
         Purpose:
             > To read raw data from a CSV/text file for further processing, such as converting to Employee objects.
@@ -33,10 +95,15 @@ public class FileHandler {
     public List<String> readFile(String filename) {
         List<String> lines = new ArrayList<>();
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                lines.add(line.trim());
+        try (InputStream in = openInput(filename)) {
+            if (asciiCompatible) {
+                readLinesAsBytes(in, lines);
+            } else {
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, charset));
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lines.add(line.trim());
+                }
             }
         } catch (IOException e) {
             System.out.println("Error reading file: " + e.getMessage());
@@ -53,12 +120,16 @@ public class FileHandler {
             > Opens a BufferedWriter.
             > Iterates through the list of lines.
             > Writes each line followed by a newline character.
+            > Compresses the output when the filename ends in .gz.
+            > A gzip file is rewritten as a single member, which recompresses rows added by
+              appendToFile (see there) as one stream.
 
         Purpose:
             > To overwrite an entire file with updated data, such as when saving multiple employees at once.
     */
     public void writeFile(String filename, List<String> lines) {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filename))) {
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(openOutput(filename, false), charset))) {
+            gzipFiles.put(filename, filename.endsWith(GZIP_EXTENSION));
             for (String line : lines) {
                 writer.write(line);
                 writer.newLine();
@@ -73,8 +144,13 @@ public class FileHandler {
     This method appends a single Employee's data to the end of a file in CSV format.
 
         Logic:
-            > Opens a FileWriter in append mode (true).
-            > Uses String.join to format employee attributes as a comma-separated string.
+            > Opens the file in append mode (true); for a gzip file a new gzip member is appended,
+              which readFile decompresses as part of the same stream.
+            > Each gzip member costs about 20 bytes of header and trailer and starts compressing
+              from scratch, so appending rows one at a time can make a gzip roster larger than the
+              plain text. Append in batches (appendEmployees) and periodically rewrite the whole
+              roster with writeFile to get back a single, fully compressed member.
+            > Formats the employee as a comma-separated line (see toCSVLine).
             > Writes the resulting line followed by a newline.
 
         Purpose:
@@ -82,8 +158,43 @@ public class FileHandler {
             > Keeps a persistent record of employee entries in CSV format.
     */
 public void appendToFile(String filename, Employee employee) {
-    try (BufferedWriter writer = new BufferedWriter(new FileWriter(filename, true))) {
-        String line = String.join(",",
+    try {
+        appendEmployees(filename, List.of(employee));
+    } catch (IOException e) {
+        System.out.println("Error appending to file: " + e.getMessage());
+    }
+}
+
+    /*
+    Description: appendEmployees
+    Appends several employees to the end of a file in one write, reporting failures to the caller.
+
+        Logic:
+            > Same format as appendToFile, but the IOException is thrown instead of printed.
+            > All the employees go into one write, i.e. a single gzip member for a compressed file.
+
+        Purpose:
+            > Used by PersistenceWriter, which reports failures through its futures and groups
+              queued saves to the same file into one call.
+    */
+    public void appendEmployees(String filename, List<Employee> employees) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(openOutput(filename, true), charset))) {
+            for (Employee employee : employees) {
+                writer.write(toCSVLine(employee));
+                writer.newLine();
+            }
+        }
+    }
+
+    /*
+    Description: toCSVLine
+    Formats an Employee as one CSV line, in the same column order as Applicants_Form.txt.
+
+        Purpose:
+            > Shared by appendToFile and by callers that save many employees at once with writeFile.
+    */
+    public static String toCSVLine(Employee employee) {
+        return String.join(",",
             employee.getFirstName(),
             employee.getLastName(),
             employee.getGender(),
@@ -94,9 +205,164 @@ public void appendToFile(String filename, Employee employee) {
             employee.getJobTitle(),
             employee.getCompany()
         );
-        writer.write(line);
-        writer.newLine();
-    } catch (IOException e) {
-        System.out.println("Error appending to file: " + e.getMessage());
     }
-}}
+
+    /*
+    Description: readLinesAsBytes
+    Splits a byte stream into trimmed lines, decoding each line straight from the read buffer.
+
+        Logic:
+            > Reads blocks of bytes into a buffer and scans for line breaks.
+            > Accepts the same line breaks as BufferedReader.readLine: '\n', '\r' or "\r\n"
+              (the '\n' of a "\r\n" split across two reads is skipped too).
+            > Each line is decoded with the charset directly from the buffer; the JDK decoder
+              already copies pure ASCII runs without per-character work.
+            > Lines longer than the buffer make the buffer grow.
+
+        Purpose:
+            > Avoids the char buffer and StringBuilder of a Reader for every line of a large roster.
+    */
+    private void readLinesAsBytes(InputStream in, List<String> lines) throws IOException {
+        byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+        int lineStart = 0;                // first byte of the current line
+        int scan = 0;                     // next byte to inspect
+        int end = 0;                      // end of the valid data in the buffer
+        boolean afterCarriageReturn = false;
+
+        while (true) {
+            if (scan == end) {
+                // Move the unfinished line to the front before reading more
+                if (lineStart > 0) {
+                    System.arraycopy(buffer, lineStart, buffer, 0, end - lineStart);
+                    end -= lineStart;
+                    scan -= lineStart;
+                    lineStart = 0;
+                }
+                if (end == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+
+                int read = in.read(buffer, end, buffer.length - end);
+                if (read < 0) break;
+                end += read;
+                continue;
+            }
+
+            byte b = buffer[scan++];
+            if (b == '\n' && afterCarriageReturn) {
+                // Second half of "\r\n": the line was already ended by the '\r'
+                lineStart = scan;
+            } else if (b == '\n' || b == '\r') {
+                lines.add(decodeLine(buffer, lineStart, scan - 1));
+                lineStart = scan;
+            }
+            afterCarriageReturn = b == '\r';
+        }
+
+        // Last line without a trailing line break
+        if (lineStart < end) {
+            lines.add(decodeLine(buffer, lineStart, end));
+        }
+    }
+
+    /*
+    Description: decodeLine
+    Turns the bytes [from, to) into a trimmed String.
+    */
+    private String decodeLine(byte[] buffer, int from, int to) {
+        return new String(buffer, from, to - from, charset).trim();
+    }
+
+    /*
+    Description: isAsciiCompatible
+    Returns true if the charset encodes every ASCII character as the same single byte.
+
+        Purpose:
+            > Byte-level line splitting is only valid for such charsets
+              (UTF-8, ISO-8859-1, windows-1252...), not for UTF-16 and similar.
+    */
+    private static boolean isAsciiCompatible(Charset charset) {
+        if (!charset.canEncode()) return false;
+
+        byte[] ascii = new byte[128];
+        for (int i = 0; i < ascii.length; i++) {
+            ascii[i] = (byte) i;
+        }
+        String sample = new String(ascii, StandardCharsets.US_ASCII);
+        return Arrays.equals(sample.getBytes(charset), ascii);
+    }
+
+    /*
+    Description: openInput
+    Opens a file for reading, transparently decompressing it if it is gzip-compressed.
+
+        Logic:
+            > Opens the file through NIO (Files.newInputStream).
+            > Peeks at the first two bytes and pushes them back.
+            > Wraps the stream in a GZIPInputStream when the gzip magic bytes are found.
+
+        Purpose:
+            > Lets compressed and plain roster files be loaded through the same readFile call.
+    */
+    private InputStream openInput(String filename) throws IOException {
+        PushbackInputStream in = new PushbackInputStream(Files.newInputStream(Paths.get(filename)), 2);
+        byte[] magic = new byte[2];
+        int count = in.readNBytes(magic, 0, magic.length);
+        in.unread(magic, 0, count);
+
+        boolean compressed = count == 2 && (magic[0] & 0xff) == GZIP_MAGIC_1 && (magic[1] & 0xff) == GZIP_MAGIC_2;
+        gzipFiles.put(filename, compressed);
+
+        if (compressed) {
+            return new GZIPInputStream(in, STREAM_BUFFER_SIZE);
+        }
+        return in;
+    }
+
+    /*
+    Description: openOutput
+    Opens a file for writing, compressing the output when the file is a gzip roster.
+
+        Logic:
+            > A file is treated as compressed when its name ends in .gz,
+              or when appending to an existing file that starts with the gzip magic bytes.
+            > The magic bytes are only checked the first time a file is appended to without having
+              been read or written before; the answer is remembered in gzipFiles.
+
+        Purpose:
+            > Keeps writeFile and appendToFile unaware of the storage format.
+    */
+    private OutputStream openOutput(String filename, boolean append) throws IOException {
+        boolean compressed = filename.endsWith(GZIP_EXTENSION) || (append && isKnownGzipFile(filename));
+        OutputStream out = append
+                ? Files.newOutputStream(Paths.get(filename), StandardOpenOption.CREATE, StandardOpenOption.APPEND)
+                : Files.newOutputStream(Paths.get(filename));
+
+        if (compressed) {
+            return new GZIPOutputStream(out, STREAM_BUFFER_SIZE);
+        }
+        return out;
+    }
+
+    private boolean isKnownGzipFile(String filename) throws IOException {
+        Boolean known = gzipFiles.get(filename);
+        if (known == null) {
+            known = isGzipFile(filename);
+            gzipFiles.put(filename, known);
+        }
+        return known;
+    }
+
+    /*
+    Description: isGzipFile
+    Returns true if an existing file starts with the gzip magic bytes.
+    */
+    private boolean isGzipFile(String filename) throws IOException {
+        Path path = Paths.get(filename);
+        if (!Files.isRegularFile(path)) return false;
+
+        try (InputStream in = Files.newInputStream(path)) {
+            return in.read() == GZIP_MAGIC_1 && in.read() == GZIP_MAGIC_2;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/**
+ * LazyEmployee
+ *
+ * Description: Employee backed by the raw CSV line it was loaded from. Loading only records where each
+ * field starts (one pass over the line) and parses the salary; every other field is read from the line
+ * when its getter is first called.
+ *
+ * Memory: a row keeps the raw line (one compact String), the separator offsets and the parsed values.
+ * First and last name, the sort and search keys, are cached once read; the other text fields are cut
+ * from the line on each call (no rescan, just the substring), since they are rarely used and caching
+ * them would bring the heap back to that of an eagerly parsed Employee.
+ *
+ * Threads: rows cross threads (event delivery, shard snapshots). Cached values are immutable Strings
+ * or single fields with a "not parsed" sentinel, so a racing reader at worst parses a field again.
+ *
+ * Author: Vitor Oliveira Trindade
+ * Date: 19/10/2026
+ */
+package CA_2;
+
+public class LazyEmployee extends Employee {
+
+    // Number of CSV fields in an employee row
+    static final int FIELD_COUNT = 9;
+
+    // Field positions within the row, in CSV order
+    static final int FIRST_NAME = 0;
+    static final int LAST_NAME = 1;
+    static final int GENDER = 2;
+    static final int EMAIL = 3;
+    static final int SALARY = 4;
+    static final int DEPARTMENT = 5;
+    static final int POSITION = 6;
+    static final int JOB_TITLE = 7;
+    static final int COMPANY = 8;
+
+    // Marks an enum field that has not been parsed yet
+    private static final byte NOT_PARSED = -1;
+
+    private static final DepartmentType[] DEPARTMENTS = DepartmentType.values();
+    private static final PositionType[] POSITIONS = PositionType.values();
+
+    private final String line;
+
+    // Offsets of the 8 commas separating the 9 fields, indexed at load time
+    private final int[] separators;
+
+    // Parsed at load time; NaN if the text is not a number (read as 0.0, like createFromCSV)
+    private final double salary;
+
+    // Filled on first access
+    private String firstName;
+    private String lastName;
+    private byte department = NOT_PARSED;
+    private byte position = NOT_PARSED;
+
+    private LazyEmployee(String line, int[] separators) {
+        this.line = line;
+        this.separators = separators;
+        this.salary = parseSalary(line.substring(fieldStart(SALARY), fieldEnd(SALARY)));
+    }
+
+    /*
+    Description: fromCSV
+    Indexes the field offsets of a CSV line and parses its salary; no other field is parsed.
+
+        Logic:
+            > Rejects the line (returns null) in the same cases as EmployeeFactory.createFromCSV:
+              fewer than 9 fields, ignoring empty trailing fields.
+            > Records the position of each separating comma, so a field is later cut out directly.
+            > Does not print anything: an invalid salary is reported by the caller
+              (ApplicantValidator, or EmployeeFactory.createLazyFromCSV).
+
+        Returns:
+            - A LazyEmployee, or null if the line does not contain all required fields
+    */
+    public static LazyEmployee fromCSV(String line) {
+        int[] separators = new int[FIELD_COUNT - 1];
+        int lastSeparator = -1;
+        for (int i = 0; i < separators.length; i++) {
+            lastSeparator = line.indexOf(',', lastSeparator + 1);
+            if (lastSeparator < 0) return null;
+            separators[i] = lastSeparator;
+        }
+
+        // Like String.split, trailing empty fields do not count: something other than commas must follow
+        for (int i = lastSeparator + 1; i < line.length(); i++) {
+            if (line.charAt(i) != ',') {
+                return new LazyEmployee(line, separators);
+            }
+        }
+        return null;
+    }
+
+    // Raw line and untrimmed field bounds, for components that work on the text directly
+    // (e.g. ApplicantDeduplicator, ApplicantValidator)
+    String getRawLine() {
+        return line;
+    }
+
+    int fieldStart(int index) {
+        return index == 0 ? 0 : separators[index - 1] + 1;
+    }
+
+    int fieldEnd(int index) {
+        if (index < separators.length) return separators[index];
+
+        // Last field: up to the next comma, if the line has extra fields
+        int end = line.indexOf(',', separators[separators.length - 1] + 1);
+        return end < 0 ? line.length() : end;
+    }
+
+    /*
+    Description: hasValidSalary
+    False if the salary text did not parse as a number (getSalary then returns 0.0).
+    */
+    boolean hasValidSalary() {
+        return !Double.isNaN(salary);
+    }
+
+    /*
+    Description: field
+    Returns the trimmed text of a field, cut straight from the indexed offsets.
+    */
+    private String field(int index) {
+        return line.substring(fieldStart(index), fieldEnd(index)).trim();
+    }
+
+    private static double parseSalary(String text) {
+        try {
+            return Double.parseDouble(text.trim());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    @Override
+    public String getFirstName() {
+        String value = firstName;
+        if (value == null) {
+            value = field(FIRST_NAME);
+            firstName = value;
+        }
+        return value;
+    }
+
+    @Override
+    public String getLastName() {
+        String value = lastName;
+        if (value == null) {
+            value = field(LAST_NAME);
+            lastName = value;
+        }
+        return value;
+    }
+
+    @Override
+    public String getGender() {
+        return field(GENDER);
+    }
+
+    @Override
+    public String getEmail() {
+        return field(EMAIL);
+    }
+
+    @Override
+    public double getSalary() {
+        return Double.isNaN(salary) ? 0.0 : salary;
+    }
+
+    @Override
+    public DepartmentType getDepartment() {
+        byte ordinal = department;
+        if (ordinal == NOT_PARSED) {
+            DepartmentType parsed;
+            try {
+                parsed = DepartmentType.valueOf(field(DEPARTMENT).toUpperCase().replace(" ", "_"));
+            } catch (IllegalArgumentException e) {
+                parsed = DepartmentType.IT; // fallback default
+            }
+            ordinal = (byte) parsed.ordinal();
+            department = ordinal;
+        }
+        return DEPARTMENTS[ordinal];
+    }
+
+    @Override
+    public PositionType getPosition() {
+        byte ordinal = position;
+        if (ordinal == NOT_PARSED) {
+            PositionType parsed;
+            try {
+                parsed = PositionType.valueOf(field(POSITION).toUpperCase().replace(" ", "_"));
+            } catch (IllegalArgumentException e) {
+                parsed = PositionType.JUNIOR; // fallback default
+            }
+            ordinal = (byte) parsed.ordinal();
+            position = ordinal;
+        }
+        return POSITIONS[ordinal];
+    }
+
+    @Override
+    public String getJobTitle() {
+        return field(JOB_TITLE);
+    }
+
+    @Override
+    public String getCompany() {
+        return field(COMPANY);
+    }
+}
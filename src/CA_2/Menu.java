@@ -30,9 +30,11 @@ public class Menu {
 
         Key responsibilities:
             > Reads employees from Applicants_Form.txt.
-            > Converts each line to an Employee object and adds it to the system.
+            > Validates each line; invalid rows go to Applicants_Form_rejects.txt with the reasons.
+            > Converts each valid line to an Employee object (fields are parsed lazily, on first use) and adds it to the system.
+            > Skips exact and near-duplicate applicants; merged rows are listed in Applicants_Form_duplicates.txt.
             > Continuously displays a menu, takes user input, and calls the appropriate action.
-            > Ends when the user selects the "EXIT" option.
+            > Ends when the user selects the "EXIT" option, after pending saves have been written to disk.
     */
     public static void main(String[] args) {
         Scanner scanner = new Scanner(System.in);
@@ -44,25 +46,50 @@ public class Menu {
             lines.remove(0); // Remove header line
         }
 
-        for (String line : lines) {
-            Employee employee = EmployeeFactory.createFromCSV(line);
-            if (employee != null) {
+        // Reject invalid rows (line numbers start at 2, after the header)
+        ApplicantValidator validator = new ApplicantValidator("Applicants_Form_rejects.txt");
+        List<Employee> validEmployees = validator.validate(lines, 2);
+
+        // Skip exact and near-duplicate rows left behind by repeated appends or re-imports;
+        // each merged row is listed in Applicants_Form_duplicates.txt with the row it matched
+        ApplicantDeduplicator deduplicator = new ApplicantDeduplicator(validEmployees.size(), "Applicants_Form_duplicates.txt");
+        for (Employee employee : validEmployees) {
+            if (deduplicator.accept(employee)) {
                 manager.addEmployee(employee);
             }
         }
-
-        boolean running = true;
-        while (running) {
-            displayMenuOptions();
-            MenuOption option = readUserChoice(scanner);
-
-            if (option == null) continue;
-
-            if (option == MenuOption.EXIT) {
-                System.out.println("Exiting program. Goodbye!");
-                running = false;
-            } else {
-                handleMenuOption(option, scanner, manager, fileHandler);
+        deduplicator.close();
+        System.out.println(validator.getSummary());
+        System.out.println(deduplicator.getSummary());
+
+        // New employees are saved in the background so the menu never waits on the disk.
+        // The finally block drains pending saves and stops the writer thread even if the loop
+        // ends with an exception (e.g. end of input), so the JVM can still exit.
+        PersistenceWriter persistenceWriter = new PersistenceWriter(fileHandler);
+        try {
+            boolean running = true;
+            while (running) {
+                // Report saves that failed in the background since the last prompt
+                for (String error : persistenceWriter.pollErrors()) {
+                    System.out.println(error);
+                }
+
+                displayMenuOptions();
+                MenuOption option = readUserChoice(scanner);
+
+                if (option == null) continue;
+
+                if (option == MenuOption.EXIT) {
+                    System.out.println("Exiting program. Goodbye!");
+                    running = false;
+                } else {
+                    handleMenuOption(option, scanner, manager, persistenceWriter);
+                }
+            }
+        } finally {
+            persistenceWriter.close();
+            for (String error : persistenceWriter.pollErrors()) {
+                System.out.println(error);
             }
         }
 
@@ -128,7 +155,7 @@ public class Menu {
         Purpose:
             > Acts as the controller that links UI interaction with program functionality.
     */
-    private static void handleMenuOption(MenuOption option, Scanner scanner, EmployeeManager manager, FileHandler fileHandler) {
+    private static void handleMenuOption(MenuOption option, Scanner scanner, EmployeeManager manager, PersistenceWriter persistenceWriter) {
         switch (option) {
                case SORT_TOP_20:
             manager.insertionSortEmployees(); // Sort employees using insertion sort
@@ -188,7 +215,7 @@ public class Menu {
         case ADD:
             Employee newEmployee = EmployeeFactory.createFromUserInput(scanner); // Create from user input
             manager.addEmployee(newEmployee); // Add to manager
-            fileHandler.appendToFile("Applicants_Form.txt", newEmployee); // Save to file
+            persistenceWriter.appendAsync("Applicants_Form.txt", newEmployee); // Save to file in the background
 
             System.out.println("\n============================================================== ***Employee Added Successfully!*** ==========================================================");
             System.out.println("========================================================================================================================================================");
@@ -211,7 +238,7 @@ public class Menu {
         // Case for generating a random employee
         case GENERATE_RANDOM:
             Employee randomEmployee = manager.generateRandomEmployee(); // Generate random employee
-            fileHandler.appendToFile("Applicants_Form.txt", randomEmployee); // Save to file
+            persistenceWriter.appendAsync("Applicants_Form.txt", randomEmployee); // Save to file in the background
 
             System.out.println("\n============================================================= ***Random Employee Generated*** =============================================================");
             System.out.println("========================================================================================================================================================");
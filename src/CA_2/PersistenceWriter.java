@@ -0,0 +1,238 @@
+/**
+ * PersistenceWriter
+ *
+ * Description: Background pipeline that saves employees to disk on a dedicated writer thread,
+ * so the console never waits for the FileHandler to finish writing.
+ *
+ * Author: Vitor Oliveira Trindade
+ * Date: 19/10/2026
+ */
+package CA_2;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class PersistenceWriter implements AutoCloseable {
+
+    // Default number of pending writes before callers are made to wait (backpressure)
+    public static final int DEFAULT_CAPACITY = 256;
+
+    // A single pending append: target file, employee and the future completed once it is on disk
+    private static class WriteRequest {
+        private final String filename;
+        private final Employee employee;
+        private final CompletableFuture<Void> done;
+
+        WriteRequest(String filename, Employee employee) {
+            this.filename = filename;
+            this.employee = employee;
+            this.done = new CompletableFuture<>();
+        }
+    }
+
+    // Marker placed on the queue by close() so the writer thread knows to stop after draining
+    private static final WriteRequest SHUTDOWN = new WriteRequest(null, null);
+
+    private final FileHandler fileHandler;
+    private final BlockingQueue<WriteRequest> queue;
+    private final Thread writerThread;
+
+    // Guards the closed flag together with queue.put, so nothing can be queued after SHUTDOWN
+    private final Object submitLock = new Object();
+    private boolean closed;
+
+    // Failed writes reported by the writer thread, shown later by the console (see pollErrors)
+    private final Queue<String> errors = new ConcurrentLinkedQueue<>();
+
+    /*
+    Description: Constructor
+    Creates the bounded queue and starts the writer thread.
+
+        Parameters:
+            - fileHandler: the FileHandler used to perform the actual disk writes
+            - capacity: maximum number of writes waiting in the queue
+    */
+    public PersistenceWriter(FileHandler fileHandler, int capacity) {
+        this.fileHandler = fileHandler;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.writerThread = new Thread(this::runWriter, "persistence-writer");
+        this.writerThread.start();
+    }
+
+    public PersistenceWriter(FileHandler fileHandler) {
+        this(fileHandler, DEFAULT_CAPACITY);
+    }
+
+    /*
+    Description: appendAsync
+    Queues an employee to be appended to a file and returns immediately.
+
+        Logic:
+            > Wraps the write in a request carrying a CompletableFuture.
+            > Puts it on the bounded queue; only blocks if the queue is full (backpressure).
+            > The closed check and the put happen under the same lock as close(), so a request is
+              either queued before SHUTDOWN (and written) or refused.
+
+        Returns:
+            - A future completed when the employee has been written, or completed exceptionally
+              with the IOException if the write failed (or IllegalStateException if the writer is closed)
+
+        Purpose:
+            > Lets ADD and GENERATE_RANDOM acknowledge the user without waiting on the disk.
+    */
+    public CompletableFuture<Void> appendAsync(String filename, Employee employee) {
+        WriteRequest request = new WriteRequest(filename, employee);
+
+        synchronized (submitLock) {
+            if (closed) {
+                request.done.completeExceptionally(new IllegalStateException("Persistence writer is closed"));
+                return request.done;
+            }
+
+            try {
+                queue.put(request);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                request.done.completeExceptionally(e);
+            }
+        }
+        return request.done;
+    }
+
+    /*
+    Description: pollErrors
+    Returns (and clears) the messages of writes that failed since the last call.
+
+        Purpose:
+            > The writer thread never prints; the console shows failures at a safe point
+              instead of in the middle of a prompt.
+    */
+    public List<String> pollErrors() {
+        List<String> messages = new ArrayList<>();
+        String message;
+        while ((message = errors.poll()) != null) {
+            messages.add(message);
+        }
+        return messages;
+    }
+
+    /*
+    Description: getPendingCount
+    Returns how many writes are still waiting in the queue.
+    */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /*
+    Description: close
+    Stops accepting new writes, lets the writer thread drain everything already queued and waits for it.
+
+        Purpose:
+            > Called on a clean exit so no accepted employee is lost.
+    */
+    @Override
+    public void close() {
+        boolean interrupted = false;
+
+        synchronized (submitLock) {
+            if (closed) return;
+            closed = true;
+
+            // SHUTDOWN must be queued even if this thread is interrupted, or the writer would never stop
+            while (true) {
+                try {
+                    queue.put(SHUTDOWN);
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+
+        while (writerThread.isAlive()) {
+            try {
+                writerThread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /*
+    Description: runWriter
+    Body of the writer thread: takes requests off the queue in order and writes them in batches.
+
+        Logic:
+            > Waits for one request, then takes everything else already queued.
+            > Consecutive requests for the same file are written with a single appendEmployees call,
+              so a burst of saves opens the file once (and adds one gzip member, not one per row).
+            > Requests queued before SHUTDOWN are still written; the thread stops afterwards.
+    */
+    private void runWriter() {
+        List<WriteRequest> pending = new ArrayList<>();
+
+        while (true) {
+            try {
+                pending.add(queue.take());
+            } catch (InterruptedException e) {
+                // Only close() is allowed to stop the writer, keep draining
+                continue;
+            }
+            queue.drainTo(pending);
+
+            int shutdownAt = pending.indexOf(SHUTDOWN);
+            int end = shutdownAt < 0 ? pending.size() : shutdownAt;
+
+            int start = 0;
+            while (start < end) {
+                int groupEnd = start + 1;
+                while (groupEnd < end && pending.get(groupEnd).filename.equals(pending.get(start).filename)) {
+                    groupEnd++;
+                }
+                write(pending.subList(start, groupEnd));
+                start = groupEnd;
+            }
+            pending.clear();
+
+            if (shutdownAt >= 0) {
+                return;
+            }
+        }
+    }
+
+    /*
+    Description: write
+    Appends a group of requests for the same file in one call and completes their futures.
+    */
+    private void write(List<WriteRequest> group) {
+        String filename = group.get(0).filename;
+        List<Employee> employees = new ArrayList<>(group.size());
+        for (WriteRequest request : group) {
+            employees.add(request.employee);
+        }
+
+        try {
+            fileHandler.appendEmployees(filename, employees);
+            for (WriteRequest request : group) {
+                request.done.complete(null);
+            }
+        } catch (IOException | RuntimeException e) {
+            for (WriteRequest request : group) {
+                errors.add("Error saving " + request.employee.getFirstName() + " " + request.employee.getLastName()
+                        + " to " + filename + ": " + e.getMessage());
+                request.done.completeExceptionally(e);
+            }
+        }
+    }
+}
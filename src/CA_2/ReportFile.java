@@ -0,0 +1,87 @@
+/**
+ * ReportFile
+ *
+ * Description: Line-oriented report written during a load (rejected rows, merged duplicates).
+ * The previous run's report is removed when a new one starts, the file is only created if there
+ * is something to write, and an I/O failure is recorded once instead of being printed per line.
+ *
+ * Author: Vitor Oliveira Trindade
+ * Date: 19/10/2026
+ */
+package CA_2;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+class ReportFile implements AutoCloseable {
+
+    private final Path path;
+    private BufferedWriter writer;
+    private String error;
+    private int lineCount;
+
+    /*
+    Description: Constructor
+    Deletes any report left by a previous run, so a clean load leaves no stale file behind.
+    */
+    ReportFile(String filename) {
+        this.path = Paths.get(filename);
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            error = e.getMessage();
+        }
+    }
+
+    /*
+    Description: writeLine
+    Appends one line, creating the file on first use. After a failure further lines are ignored.
+    */
+    void writeLine(String line) {
+        lineCount++;
+        if (error != null) return;
+
+        try {
+            if (writer == null) {
+                writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+            }
+            writer.write(line);
+            writer.newLine();
+        } catch (IOException e) {
+            error = e.getMessage();
+        }
+    }
+
+    String getFilename() {
+        return path.toString();
+    }
+
+    int getLineCount() {
+        return lineCount;
+    }
+
+    /*
+    Description: describe
+    Short text for a summary line: where the lines went, or why they could not be written.
+    */
+    String describe() {
+        if (error != null) return "report " + path + " could not be written: " + error;
+        return "see " + path;
+    }
+
+    @Override
+    public void close() {
+        if (writer == null) return;
+
+        try {
+            writer.close();
+        } catch (IOException e) {
+            if (error == null) error = e.getMessage();
+        }
+        writer = null;
+    }
+}
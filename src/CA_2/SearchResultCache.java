@@ -0,0 +1,116 @@
+/**
+ * SearchResultCache
+ *
+ * Description: Bounded least-recently-used cache of search results, keyed by the normalized query.
+ * Used by EmployeeManager so repeated searches skip the sort and binary search.
+ *
+ * Author: Vitor Oliveira Trindade
+ * Date: 19/10/2026
+ */
+package CA_2;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+public class SearchResultCache {
+
+    // Default number of distinct queries kept
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    // Access-ordered map: iteration order is least recently used first, which gives LRU eviction
+    private final LinkedHashMap<String, Optional<Employee>> entries;
+
+    private long hits;
+    private long misses;
+
+    /*
+    Description: Constructor
+
+        Parameters:
+            - capacity: maximum number of queries kept; the least recently used one is evicted beyond that
+    */
+    public SearchResultCache(int capacity) {
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Optional<Employee>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public SearchResultCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /*
+    Description: get
+    Looks up a cached result for a query.
+
+        Returns:
+            - null if the query is not cached (a miss)
+            - Optional.empty() if the query is cached as "not found"
+            - Optional.of(employee) if the query is cached with a result
+    */
+    public Optional<Employee> get(String query) {
+        Optional<Employee> result = entries.get(normalize(query));
+        if (result == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return result;
+    }
+
+    /*
+    Description: put
+    Stores the result of a query (null is stored as "not found" so misses are cached too).
+    */
+    public void put(String query, Employee result) {
+        entries.put(normalize(query), Optional.ofNullable(result));
+    }
+
+    /*
+    Description: invalidate
+    Drops the cached result for the full name of an employee that was added, updated or removed.
+
+        Purpose:
+            > Only the query that can return this employee is evicted; every other entry stays valid.
+            > Returns before building the key when nothing is cached (e.g. during the initial load),
+              so adding rows does not force their names to be read.
+    */
+    public void invalidate(Employee employee) {
+        if (entries.isEmpty()) return;
+
+        entries.remove(normalize(employee.getFirstName() + " " + employee.getLastName()));
+    }
+
+    /*
+    Description: clear
+    Drops every cached result.
+    */
+    public void clear() {
+        entries.clear();
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /*
+    Description: normalize
+    Builds the cache key: trimmed and lower-cased, matching the case-insensitive comparison of the search.
+    */
+    private static String normalize(String query) {
+        return query.trim().toLowerCase(Locale.ROOT);
+    }
+}
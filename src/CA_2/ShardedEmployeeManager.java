@@ -0,0 +1,416 @@
+/**
+ * ShardedEmployeeManager
+ *
+ * Description: Splits the roster into one shard per DepartmentType. Each shard has its own
+ * EmployeeManager (with its own search cache), its own lock and its own persistence file.
+ * Writes to different departments never contend, and queries run on all shards in parallel.
+ *
+ * Author: Vitor Oliveira Trindade
+ * Date: 19/10/2026
+ */
+package CA_2;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class ShardedEmployeeManager {
+
+    // Header written at the top of every shard file, same as Applicants_Form.txt
+    private static final String HEADER = "First name,Last name,Gender,Email,Salary,Department,Position,Job title,Company";
+
+    // One department's employees, guarded by its own lock
+    private static class Shard {
+        private final EmployeeManager manager = new EmployeeManager();
+        private final ReentrantLock lock = new ReentrantLock();
+        private String filename;
+
+        Shard(String filename) {
+            this.filename = filename;
+        }
+
+        // Runs an action on this shard's manager while holding the shard lock
+        <T> T withLock(Function<EmployeeManager, T> action) {
+            lock.lock();
+            try {
+                return action.apply(manager);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private final Map<DepartmentType, Shard> shards = new EnumMap<>(DepartmentType.class);
+
+    /*
+    Description: Constructor
+    Creates one empty shard per department.
+
+        Parameters:
+            - baseFilename: the roster file name; each shard is saved next to it with the department
+              added to the name (e.g. Applicants_Form.txt -> Applicants_Form_HR.txt)
+    */
+    public ShardedEmployeeManager(String baseFilename) {
+        for (DepartmentType department : DepartmentType.values()) {
+            shards.put(department, new Shard(shardFilename(baseFilename, department)));
+        }
+    }
+
+    /*
+    Description: setShardFile
+    Changes the file a department is saved to (e.g. to place shards on separate disks).
+    */
+    public void setShardFile(DepartmentType department, String filename) {
+        Shard shard = shards.get(department);
+        shard.withLock(manager -> shard.filename = filename);
+    }
+
+    public String getShardFile(DepartmentType department) {
+        Shard shard = shards.get(department);
+        return shard.withLock(manager -> shard.filename);
+    }
+
+    /*
+    Description: addEmployee
+    Adds an employee to the shard of its department; only that shard is locked.
+    */
+    public void addEmployee(Employee employee) {
+        shards.get(employee.getDepartment()).withLock(manager -> {
+            manager.addEmployee(employee);
+            return null;
+        });
+    }
+
+    /*
+    Description: updateEmployee
+    Replaces an employee, moving it to another shard if its department changed.
+
+        Logic:
+            > Same department: only that shard is locked.
+            > Department change: both shards are locked (always in department order, so two opposite
+              moves cannot deadlock) and the remove and add happen as one step. Other writers never
+              see the employee missing from both shards or present in both.
+
+        Returns:
+            - true if the existing employee was found, false otherwise
+    */
+    public boolean updateEmployee(Employee existing, Employee replacement) {
+        if (existing.getDepartment() == replacement.getDepartment()) {
+            return shards.get(existing.getDepartment()).withLock(manager -> manager.updateEmployee(existing, replacement));
+        }
+
+        Shard from = shards.get(existing.getDepartment());
+        Shard to = shards.get(replacement.getDepartment());
+        boolean fromFirst = existing.getDepartment().ordinal() < replacement.getDepartment().ordinal();
+        Shard first = fromFirst ? from : to;
+        Shard second = fromFirst ? to : from;
+
+        first.lock.lock();
+        try {
+            second.lock.lock();
+            try {
+                if (!from.manager.removeEmployee(existing)) return false;
+                to.manager.addEmployee(replacement);
+                return true;
+            } finally {
+                second.lock.unlock();
+            }
+        } finally {
+            first.lock.unlock();
+        }
+    }
+
+    /*
+    Description: removeEmployee
+    Removes an employee from the shard of its department.
+    */
+    public boolean removeEmployee(Employee employee) {
+        return shards.get(employee.getDepartment()).withLock(manager -> manager.removeEmployee(employee));
+    }
+
+    /*
+    Description: getShard
+    Returns the EmployeeManager holding a single department (e.g. to subscribe to its changes).
+
+        Note:
+            - Calls made directly on it are not guarded by the shard lock.
+    */
+    public EmployeeManager getShard(DepartmentType department) {
+        return shards.get(department).manager;
+    }
+
+    /*
+    Description: searchEmployeeByFullName
+    Searches every shard in parallel and returns the first match found.
+
+        Logic:
+            > Each shard runs its own cached binary search under its own lock.
+    */
+    public Employee searchEmployeeByFullName(String fullName) {
+        return shards.values().parallelStream()
+                .map(shard -> shard.withLock(manager -> manager.searchEmployeeByFullName(fullName)))
+                .filter(found -> found != null)
+                .findAny()
+                .orElse(null);
+    }
+
+    /*
+    Description: topEmployees
+    Returns the first n employees across all departments in the given order.
+
+        Logic:
+            > Each shard selects its own first n in parallel (under its lock) with a bounded heap,
+              so a shard is scanned once instead of being fully sorted.
+            > The partial results, at most n per shard, are merged and cut to n.
+
+        Purpose:
+            > Replaces sorting the whole roster for reports such as the Top 20 listing.
+    */
+    public List<Employee> topEmployees(int n, Comparator<Employee> order) {
+        if (n <= 0) return new ArrayList<>();
+
+        return shards.values().parallelStream()
+                .flatMap(shard -> shard.withLock(manager -> firstN(manager.getEmployees(), n, order)).stream())
+                .sorted(order)
+                .limit(n)
+                .collect(Collectors.toList());
+    }
+
+    /*
+    Description: size
+    Total number of employees across all shards.
+    */
+    public int size() {
+        return shards.values().parallelStream()
+                .mapToInt(shard -> shard.withLock(manager -> manager.getEmployees().size()))
+                .sum();
+    }
+
+    /*
+    Description: getTotalSalary
+    Sums salaries across all shards; each shard computes its own subtotal in parallel.
+    */
+    public double getTotalSalary() {
+        return shards.values().parallelStream()
+                .mapToDouble(shard -> shard.withLock(manager -> sumSalaries(manager.getEmployees())))
+                .sum();
+    }
+
+    /*
+    Description: getAverageSalary
+    Average salary across all shards (0.0 when the roster is empty).
+    */
+    public double getAverageSalary() {
+        int count = size();
+        return count == 0 ? 0.0 : getTotalSalary() / count;
+    }
+
+    /*
+    Description: getEmployees
+    Returns a snapshot of every employee, department by department.
+    */
+    public List<Employee> getEmployees() {
+        List<Employee> all = new ArrayList<>();
+        for (Shard shard : shards.values()) {
+            all.addAll(shard.withLock(manager -> new ArrayList<>(manager.getEmployees())));
+        }
+        return all;
+    }
+
+    /*
+    Description: loadAll
+    Replaces the whole roster with the contents of the shard files.
+
+        Logic:
+            > Locks every shard (in department order) for the whole load and empties it first,
+              so loading twice does not duplicate the roster.
+            > Reads and validates the files in parallel on dedicated I/O threads (see forEachShardInParallel),
+              with the same ApplicantValidator stage as Menu.main. Rejected rows of each shard file go to
+              its own reject file (e.g. Applicants_Form_HR.txt -> Applicants_Form_HR_rejects.txt).
+            > Adds each accepted row to the shard of its parsed department, not the file it was read from,
+              so updateEmployee and removeEmployee can find it (e.g. a row of the HR file whose department
+              is Sales is stored in the SALES shard).
+            > Missing shard files simply leave the shard empty.
+
+        Returns:
+            - One summary line per shard file read, plus one for rows stored in another department's shard
+    */
+    public List<String> loadAll(FileHandler fileHandler) {
+        List<Shard> locked = new ArrayList<>(shards.values());
+        for (Shard shard : locked) {
+            shard.lock.lock();
+        }
+
+        try {
+            for (Shard shard : locked) {
+                shard.manager.clear();
+            }
+
+            // One validator per existing shard file, created here so the I/O threads only read this map
+            Map<Shard, ApplicantValidator> validators = new HashMap<>();
+            for (Shard shard : locked) {
+                if (new File(shard.filename).isFile()) {
+                    validators.put(shard, new ApplicantValidator(reportFilename(shard.filename, "rejects")));
+                }
+            }
+
+            List<List<Employee>> loaded = forEachShardInParallel(shard -> {
+                ApplicantValidator validator = validators.get(shard);
+                if (validator == null) return List.of();
+
+                List<String> lines = fileHandler.readFile(shard.filename);
+                if (!lines.isEmpty()) {
+                    lines.remove(0); // Remove header line
+                }
+                return validator.validate(lines, 2);
+            });
+            if (loaded.size() != locked.size()) {
+                return new ArrayList<>(); // Interrupted while reading: the shards stay empty
+            }
+
+            List<String> summaries = new ArrayList<>();
+            for (Shard shard : locked) {
+                if (validators.containsKey(shard)) {
+                    summaries.add(shard.filename + ": " + validators.get(shard).getSummary());
+                }
+            }
+
+            int moved = 0;
+            int index = 0;
+            for (DepartmentType fileDepartment : shards.keySet()) {
+                for (Employee employee : loaded.get(index)) {
+                    if (employee.getDepartment() != fileDepartment) moved++;
+                    shards.get(employee.getDepartment()).manager.addEmployee(employee);
+                }
+                index++;
+            }
+
+            if (moved > 0) {
+                summaries.add(moved + " rows were stored in the shard of their own department instead of the file they were read from.");
+            }
+            return summaries;
+        } finally {
+            for (int i = locked.size() - 1; i >= 0; i--) {
+                locked.get(i).lock.unlock();
+            }
+        }
+    }
+
+    /*
+    Description: saveAll
+    Writes every shard to its own file, all shards in parallel on dedicated I/O threads.
+    */
+    public void saveAll(FileHandler fileHandler) {
+        forEachShardInParallel(shard -> shard.withLock(manager -> {
+            List<String> lines = new ArrayList<>(manager.getEmployees().size() + 1);
+            lines.add(HEADER);
+            for (Employee employee : manager.getEmployees()) {
+                lines.add(FileHandler.toCSVLine(employee));
+            }
+            fileHandler.writeFile(shard.filename, lines);
+            return null;
+        }));
+    }
+
+    /*
+    Description: forEachShardInParallel
+    Runs a blocking action (file reads / writes) on every shard, one thread per shard, and waits for all of them.
+
+        Logic:
+            > The threads belong to a short-lived pool created for this call and shut down afterwards,
+              so blocking disk I/O never occupies the common ForkJoinPool used by parallel streams.
+            > An exception thrown by an action is rethrown here once every shard has been started.
+
+        Returns:
+            - The result of each action, in department order (empty if the calling thread was interrupted)
+    */
+    private <T> List<T> forEachShardInParallel(Function<Shard, T> action) {
+        ExecutorService executor = Executors.newFixedThreadPool(shards.size(), runnable -> new Thread(runnable, "shard-io"));
+        try {
+            List<Future<T>> pending = new ArrayList<>(shards.size());
+            for (Shard shard : shards.values()) {
+                pending.add(executor.submit(() -> action.apply(shard)));
+            }
+
+            List<T> results = new ArrayList<>(pending.size());
+            for (Future<T> future : pending) {
+                try {
+                    results.add(future.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return new ArrayList<>();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Shard I/O failed", e.getCause());
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /*
+    Description: firstN
+    Selects the first n employees of a list in the given order without sorting the whole list.
+
+        Logic:
+            > Keeps a heap of at most n employees whose head is the last of the current selection;
+              each new employee only enters by evicting that head.
+    */
+    private static List<Employee> firstN(List<Employee> employees, int n, Comparator<Employee> order) {
+        PriorityQueue<Employee> heap = new PriorityQueue<>(Math.min(n, Math.max(1, employees.size())), order.reversed());
+        for (Employee employee : employees) {
+            if (heap.size() < n) {
+                heap.add(employee);
+            } else if (order.compare(employee, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(employee);
+            }
+        }
+        return new ArrayList<>(heap);
+    }
+
+    private static double sumSalaries(List<Employee> employees) {
+        double total = 0.0;
+        for (Employee employee : employees) {
+            total += employee.getSalary();
+        }
+        return total;
+    }
+
+    /*
+    Description: reportFilename
+    Names a plain-text report next to a shard file: Applicants_Form_HR.txt.gz -> Applicants_Form_HR_rejects.txt
+    */
+    private static String reportFilename(String filename, String report) {
+        int nameStart = Math.max(filename.lastIndexOf('/'), filename.lastIndexOf('\\')) + 1;
+        int extension = filename.indexOf('.', nameStart);
+        String base = extension < 0 ? filename : filename.substring(0, extension);
+        return base + "_" + report + ".txt";
+    }
+
+    /*
+    Description: shardFilename
+    Inserts the department name before the file extension(s): Applicants_Form.txt.gz -> Applicants_Form_HR.txt.gz
+    */
+    private static String shardFilename(String baseFilename, DepartmentType department) {
+        int nameStart = Math.max(baseFilename.lastIndexOf('/'), baseFilename.lastIndexOf('\\')) + 1;
+        int extension = baseFilename.indexOf('.', nameStart);
+        if (extension < 0) {
+            return baseFilename + "_" + department.name();
+        }
+        return baseFilename.substring(0, extension) + "_" + department.name() + baseFilename.substring(extension);
+    }
+}